@@ -7,14 +7,23 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.geometry.Pos;
+import maze.DepthFirstGenerator;
+import maze.DistanceField;
+import maze.KruskalGenerator;
 import maze.Maze;
+import maze.MazeGenerator;
+import maze.PrimGenerator;
+import maze.WilsonGenerator;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public class MazeView extends BorderPane {
     private Canvas canvas;
@@ -29,6 +38,9 @@ public class MazeView extends BorderPane {
     private long lastUpdate = 0;
     private static final long UPDATE_INTERVAL = 100;
     private String currentAlgorithm = "Tree Traversal";
+    private boolean showDistanceField = false;
+    private String currentGenerator;
+    private final Map<String, Supplier<MazeGenerator>> generators = new LinkedHashMap<>();
 
     public MazeView(Maze maze) {
         this.maze = maze;
@@ -44,7 +56,27 @@ public class MazeView extends BorderPane {
         Button switchAlgorithmButton = new Button("Switch Algorithm");
         switchAlgorithmButton.setOnAction(e -> switchAlgorithm());
 
-        HBox buttonBox = new HBox(switchAlgorithmButton);
+        Button distanceFieldButton = new Button("Show Distance Field");
+        distanceFieldButton.setOnAction(e -> {
+            showDistanceField = !showDistanceField;
+            distanceFieldButton.setText(showDistanceField ? "Hide Distance Field" : "Show Distance Field");
+            if (showDistanceField) {
+                maze.computeDistanceField();
+            }
+        });
+
+        addGenerator(DepthFirstGenerator::new);
+        addGenerator(KruskalGenerator::new);
+        addGenerator(PrimGenerator::new);
+        addGenerator(WilsonGenerator::new);
+
+        ComboBox<String> generatorBox = new ComboBox<>();
+        generatorBox.getItems().addAll(generators.keySet());
+        currentGenerator = maze.getGenerator().getName();
+        generatorBox.setValue(currentGenerator);
+        generatorBox.setOnAction(e -> selectGenerator(generatorBox.getValue()));
+
+        HBox buttonBox = new HBox(generatorBox, switchAlgorithmButton, distanceFieldButton);
         buttonBox.setAlignment(Pos.TOP_RIGHT);
         buttonBox.setSpacing(10);
 
@@ -67,16 +99,37 @@ public class MazeView extends BorderPane {
         return Math.min(maxSize / Math.max(rows, cols), 8);
     }
 
+    private void addGenerator(Supplier<MazeGenerator> supplier) {
+        generators.put(supplier.get().getName(), supplier);
+    }
+
     private void switchAlgorithm() {
+        maze.setGeneratorSeed(System.nanoTime()); // Build a new maze on every switch
         maze.resetMaze();
         if (currentAlgorithm.equals("Tree Traversal")) {
             currentAlgorithm = "Dijkstra's Shortest Path";
             maze.generateOpenMaze();
         } else {
             currentAlgorithm = "Tree Traversal";
-            maze.generateMazeDFS();
+            maze.generateMaze();
+        }
+
+        restartAnimation();
+    }
+
+    private void selectGenerator(String name) {
+        currentGenerator = name;
+        maze.setGenerator(generators.get(name).get(), System.nanoTime());
+
+        // Only the tree traversal mode uses a maze generator, so restart it with the new one
+        if (currentAlgorithm.equals("Tree Traversal")) {
+            maze.resetMaze();
+            maze.generateMaze();
+            restartAnimation();
         }
+    }
 
+    private void restartAnimation() {
         isMazeSolved = false;
         elapsedTime = System.currentTimeMillis() - startTime;
         steps = maze.getSteps();
@@ -93,7 +146,7 @@ public class MazeView extends BorderPane {
             public void handle(long now) {
                 if (!maze.isSolved()) {
                     if (currentAlgorithm.equals("Tree Traversal")) {
-                        if (!maze.generateMazeDFS()) {
+                        if (!maze.generateMaze()) {
                             maze.solveMazeRHR();
                             isMazeSolved = true;
                             elapsedTime = System.currentTimeMillis() - startTime;
@@ -112,6 +165,11 @@ public class MazeView extends BorderPane {
                     }
                 }
 
+                // Only recompute the distance field after the grid has been carved or reset
+                if (showDistanceField && maze.isDistanceFieldStale()) {
+                    maze.computeDistanceField();
+                }
+
                 // Update the current step at a controlled rate
                 if (isMazeSolved && !animationFinished && now - lastUpdate >= UPDATE_INTERVAL * 1_000_000) {
                     traversalTime = System.currentTimeMillis() - startTime;
@@ -141,7 +199,7 @@ public class MazeView extends BorderPane {
         gc.setFill(Color.WHITE);
         gc.setFont(Font.font(14));
         gc.setTextAlign(TextAlignment.LEFT);
-        gc.fillText("Maze Generation Algorithm: " + (currentAlgorithm.equals("Tree Traversal") ? "Iterative Backtracking (DFS)" : "Open Maze"), 15, 30);
+        gc.fillText("Maze Generation Algorithm: " + (currentAlgorithm.equals("Tree Traversal") ? currentGenerator : "Open Maze"), 15, 30);
         gc.fillText("Maze Solving Algorithm: " + currentAlgorithm, 15, 50);
         gc.fillText("Grid Size: " + maze.getRow() + "x" + maze.getCol(), 15, 70);
         gc.fillText("Visual Time: " + (isMazeSolved ? elapsedTime : System.currentTimeMillis() - startTime) + " ms", 15, 90);
@@ -175,6 +233,21 @@ public class MazeView extends BorderPane {
         gc.fillRect(15, 280, 10, 10);
         gc.setFill(Color.WHITE);
         gc.fillText(": Solution Path", 30, 290);
+
+        if (showDistanceField) {
+            gc.setFill(heatColor(0, 1));
+            gc.fillRect(15, 300, 5, 10);
+            gc.setFill(heatColor(1, 1));
+            gc.fillRect(20, 300, 5, 10);
+            gc.setFill(Color.WHITE);
+            gc.fillText(": Distance (Near to Far)", 30, 310);
+
+            // Keep the summary in the legend column so it never overlaps the maze at x = 250
+            DistanceField distanceField = maze.getDistanceField();
+            if (distanceField != null) {
+                gc.fillText("Reachable: " + distanceField.getReachableCount() + ", Max: " + distanceField.getMaxDistance(), 15, 330);
+            }
+        }
     }
 
     private void drawMaze() {
@@ -202,6 +275,20 @@ public class MazeView extends BorderPane {
             }
         }
 
+        // Overlay the distance field as a heat map, from blue near the start to red far away
+        DistanceField distanceField = maze.getDistanceField();
+        if (showDistanceField && distanceField != null && distanceField.getMaxDistance() >= 0) {
+            int maxDistance = Math.max(distanceField.getMaxDistance(), 1);
+            for (int row = 0; row < numRows; row++) {
+                for (int col = 0; col < numCols; col++) {
+                    if (distanceField.isReachable(row, col)) {
+                        gc.setFill(heatColor(distanceField.getDistance(row, col), maxDistance));
+                        gc.fillRect(offsetX + col * cellSize, offsetY + row * cellSize, cellSize, cellSize);
+                    }
+                }
+            }
+        }
+
         // Draw start and end points
         int[] startCell = maze.getStartCell();
         int[] endCell = maze.getEndCell();
@@ -212,10 +299,13 @@ public class MazeView extends BorderPane {
 
         // Highlight the steps taken during solving
         if (!isMazeSolved) {
-            Set<int[]> visitedCells = maze.getVisitedCells();
-            for (int[] cell : visitedCells) {
-                gc.setFill(Color.BLUE);
-                gc.fillRect(offsetX + cell[1] * cellSize, offsetY + cell[0] * cellSize, cellSize, cellSize);
+            gc.setFill(Color.BLUE);
+            for (int row = 0; row < numRows; row++) {
+                for (int col = 0; col < numCols; col++) {
+                    if (maze.isVisited(row, col)) {
+                        gc.fillRect(offsetX + col * cellSize, offsetY + row * cellSize, cellSize, cellSize);
+                    }
+                }
             }
         }
 
@@ -230,4 +320,9 @@ public class MazeView extends BorderPane {
             }
         }
     }
+
+    private Color heatColor(int distance, int maxDistance) {
+        double hue = 240 * (1 - (double) distance / maxDistance);
+        return Color.hsb(hue, 0.85, 0.95);
+    }
 }
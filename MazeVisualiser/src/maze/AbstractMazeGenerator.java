@@ -0,0 +1,99 @@
+package maze;
+
+import java.util.Random;
+
+// Shared cell bookkeeping for the generators. Cells are numbered 0..cellCount-1 in row-major order,
+// and cell k lives at grid position (2 * (k / cellCols) + 1, 2 * (k % cellCols) + 1).
+abstract class AbstractMazeGenerator implements MazeGenerator {
+
+    // Directions: right, down, left, up
+    static final int RIGHT = 0;
+    static final int DOWN = 1;
+    static final int LEFT = 2;
+    static final int UP = 3;
+
+    int[][] grid;
+    int col;
+    int cellRows;
+    int cellCols;
+    int cellCount;
+    int startIndex;
+    Random random;
+    int lastCarved;
+    int mainWrites;
+    int auxWrites;
+
+    @Override
+    public void init(int[][] grid, int[] startCell, long seed) {
+        this.grid = grid;
+        this.col = grid[0].length;
+        this.cellRows = (grid.length - 1) / 2;
+        this.cellCols = (col - 1) / 2;
+        this.cellCount = cellRows * cellCols;
+        this.startIndex = ((startCell[0] - 1) / 2) * cellCols + (startCell[1] - 1) / 2;
+        this.random = new Random(seed);
+        this.lastCarved = -1;
+        this.mainWrites = 0;
+        this.auxWrites = 0;
+    }
+
+    // Clear the per-step write counts before a step does any work
+    void beginStep() {
+        mainWrites = 0;
+        auxWrites = 0;
+    }
+
+    // Index of the neighbouring cell in the given direction, or -1 if it falls outside the maze
+    int neighbour(int cell, int direction) {
+        int r = cell / cellCols;
+        int c = cell % cellCols;
+        switch (direction) {
+            case RIGHT: return c + 1 < cellCols ? cell + 1 : -1;
+            case DOWN: return r + 1 < cellRows ? cell + cellCols : -1;
+            case LEFT: return c > 0 ? cell - 1 : -1;
+            default: return r > 0 ? cell - cellCols : -1;
+        }
+    }
+
+    void carveCell(int cell) {
+        int x = 2 * (cell / cellCols) + 1;
+        int y = 2 * (cell % cellCols) + 1;
+        open(x, y);
+        lastCarved = x * col + y;
+    }
+
+    // Remove the wall between two adjacent cells and open both of them, reporting 'to' as the carved cell
+    void carvePassage(int from, int to) {
+        int fx = 2 * (from / cellCols) + 1;
+        int fy = 2 * (from % cellCols) + 1;
+        int tx = 2 * (to / cellCols) + 1;
+        int ty = 2 * (to % cellCols) + 1;
+        open(fx, fy);
+        open((fx + tx) / 2, (fy + ty) / 2);
+        open(tx, ty);
+        lastCarved = tx * col + ty;
+    }
+
+    // Only cells that are still walls are written, so mainWrites counts real grid writes
+    private void open(int x, int y) {
+        if (grid[x][y] != Maze.PATH) {
+            grid[x][y] = Maze.PATH;
+            mainWrites++;
+        }
+    }
+
+    @Override
+    public int getLastCarved() {
+        return lastCarved;
+    }
+
+    @Override
+    public int getMainWrites() {
+        return mainWrites;
+    }
+
+    @Override
+    public int getAuxWrites() {
+        return auxWrites;
+    }
+}
@@ -0,0 +1,59 @@
+package maze;
+
+// Randomized depth-first search (also known as the "recursive backtracker" algorithm), run iteratively
+// with a primitive int[] stack. Each step either carves into a random unvisited neighbour of the cell
+// on top of the stack and pushes it, or backtracks by popping the top cell.
+public class DepthFirstGenerator extends AbstractMazeGenerator {
+
+    private int[] stack;
+    private int stackSize;
+
+    @Override
+    public void init(int[][] grid, int[] startCell, long seed) {
+        super.init(grid, startCell, seed);
+        stack = new int[cellCount];
+        stackSize = 0;
+
+        if (cellCount > 0) {
+            carveCell(startIndex);
+            stack[stackSize++] = startIndex;
+        }
+    }
+
+    @Override
+    public boolean step() {
+        beginStep();
+        if (stackSize == 0) {
+            return false;
+        }
+
+        // Reservoir-sample one of the unvisited neighbours of the cell on top of the stack
+        int cell = stack[stackSize - 1];
+        int chosen = -1;
+        int seen = 0;
+        for (int direction = 0; direction < 4; direction++) {
+            int next = neighbour(cell, direction);
+            if (next >= 0 && !isCarved(next) && random.nextInt(++seen) == 0) {
+                chosen = next;
+            }
+        }
+
+        if (chosen >= 0) {
+            carvePassage(cell, chosen);
+            stack[stackSize++] = chosen; // Push the chosen cell
+        } else {
+            stackSize--; // No unvisited neighbours, so backtrack
+        }
+        auxWrites++;
+        return true;
+    }
+
+    private boolean isCarved(int cell) {
+        return grid[2 * (cell / cellCols) + 1][2 * (cell % cellCols) + 1] == Maze.PATH;
+    }
+
+    @Override
+    public String getName() {
+        return "Iterative Backtracking (DFS)";
+    }
+}
@@ -0,0 +1,166 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Breadth-first distance transform over the maze grid.
+// Distances are stored in a flat int[] indexed by (row * col + column), so a distance
+// or reachability query for any cell is a single array read after compute() has run.
+public class DistanceField {
+
+    public static final int UNREACHABLE = -1;
+    private static final int PENDING = -2;
+    private static final int NO_CELL = -1;
+
+    // Frontiers smaller than this are expanded on the calling thread
+    private static final int PARALLEL_THRESHOLD = 512;
+
+    private final int[][] grid;
+    private final int row;
+    private final int col;
+    private final int[] distance;
+
+    // Reused between levels and between calls to compute()
+    private int[] frontier;
+    private int[] nextFrontier;
+    private int[] candidates;
+
+    private int maxDistance;
+    private int reachableCount;
+
+    public DistanceField(int[][] grid) {
+        this.grid = grid;
+        this.row = grid.length;
+        this.col = grid[0].length;
+        this.distance = new int[row * col];
+        this.frontier = new int[64];
+        this.nextFrontier = new int[64];
+        this.candidates = new int[256];
+        clear();
+    }
+
+    // Level-synchronous BFS from one or more source cells.
+    // Each level is expanded as a parallel wavefront: every frontier cell writes its newly
+    // discovered neighbours into its own four slots of the candidate buffer, so workers never
+    // share a write position. A sequential pass then removes duplicates and builds the next level.
+    public void compute(int[]... sources) {
+        clear();
+        if (frontier.length < sources.length) {
+            frontier = new int[sources.length];
+        }
+
+        int frontierSize = 0;
+        for (int[] source : sources) {
+            int index = source[0] * col + source[1];
+            if (isOpen(source[0], source[1]) && distance[index] == UNREACHABLE) {
+                distance[index] = 0;
+                frontier[frontierSize++] = index;
+            }
+        }
+        reachableCount = frontierSize;
+
+        int level = 0;
+        while (frontierSize > 0) {
+            final int[] current = frontier;
+            ensureCandidateCapacity(frontierSize * 4);
+
+            IntStream cells = IntStream.range(0, frontierSize);
+            if (frontierSize >= PARALLEL_THRESHOLD) {
+                cells = cells.parallel();
+            }
+            cells.forEach(i -> expand(current[i], i * 4));
+
+            // Keep the first occurrence of each pending cell and assign it the next level
+            int nextSize = 0;
+            int nextLevel = level + 1;
+            int candidateCount = frontierSize * 4;
+            for (int i = 0; i < candidateCount; i++) {
+                int index = candidates[i];
+                if (index != NO_CELL && distance[index] == PENDING) {
+                    distance[index] = nextLevel;
+                    nextFrontier[nextSize++] = index;
+                }
+            }
+
+            if (nextSize > 0) {
+                level = nextLevel;
+            }
+            reachableCount += nextSize;
+
+            int[] swap = frontier;
+            frontier = nextFrontier;
+            nextFrontier = swap;
+            frontierSize = nextSize;
+        }
+
+        maxDistance = reachableCount > 0 ? level : UNREACHABLE;
+    }
+
+    // Marks the unvisited open neighbours of a cell as pending. Concurrent workers may race on
+    // the same neighbour, but they all write the same value, and duplicates are dropped later.
+    private void expand(int index, int slot) {
+        int x = index / col;
+        int y = index % col;
+
+        candidates[slot] = visit(x + 1, y);
+        candidates[slot + 1] = visit(x, y + 1);
+        candidates[slot + 2] = visit(x - 1, y);
+        candidates[slot + 3] = visit(x, y - 1);
+    }
+
+    private int visit(int x, int y) {
+        if (!isOpen(x, y)) {
+            return NO_CELL;
+        }
+        int index = x * col + y;
+        if (distance[index] != UNREACHABLE) {
+            return NO_CELL;
+        }
+        distance[index] = PENDING;
+        return index;
+    }
+
+    private boolean isOpen(int x, int y) {
+        return x >= 0 && y >= 0 && x < row && y < col && grid[x][y] == Maze.PATH;
+    }
+
+    private void ensureCandidateCapacity(int size) {
+        if (candidates.length < size) {
+            candidates = new int[Math.max(size, candidates.length * 2)];
+        }
+        // The next level can never hold more cells than there are candidates
+        if (nextFrontier.length < size) {
+            nextFrontier = new int[Math.max(size, nextFrontier.length * 2)];
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(distance, UNREACHABLE);
+        maxDistance = UNREACHABLE;
+        reachableCount = 0;
+    }
+
+    public int getDistance(int x, int y) {
+        return distance[x * col + y];
+    }
+
+    public boolean isReachable(int x, int y) {
+        return distance[x * col + y] >= 0;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    public int getReachableCount() {
+        return reachableCount;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getCol() {
+        return col;
+    }
+}
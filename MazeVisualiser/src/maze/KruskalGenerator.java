@@ -0,0 +1,96 @@
+package maze;
+
+// Randomized Kruskal's algorithm: walk the walls in a shuffled order and knock down every wall
+// that separates two cells which are not yet connected. Connectivity is tracked with an int[]
+// union-find using path halving and union by size.
+public class KruskalGenerator extends AbstractMazeGenerator {
+
+    private int[] edges;
+    private int edgeCount;
+    private int edgeIndex;
+    private int[] parent;
+    private int[] size;
+    private int unions;
+
+    @Override
+    public void init(int[][] grid, int[] startCell, long seed) {
+        super.init(grid, startCell, seed);
+
+        // Each edge is encoded as (cell * 2 + 0) for the wall to its right or (cell * 2 + 1) for the wall below it
+        edges = new int[cellCount * 2];
+        edgeCount = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (neighbour(cell, RIGHT) >= 0) edges[edgeCount++] = cell * 2;
+            if (neighbour(cell, DOWN) >= 0) edges[edgeCount++] = cell * 2 + 1;
+        }
+
+        // Fisher-Yates shuffle
+        for (int i = edgeCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = edges[i];
+            edges[i] = edges[j];
+            edges[j] = swap;
+        }
+
+        parent = new int[cellCount];
+        size = new int[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+
+        edgeIndex = 0;
+        unions = 0;
+    }
+
+    @Override
+    public boolean step() {
+        beginStep();
+
+        // A spanning tree over n cells has exactly n - 1 passages
+        while (unions < cellCount - 1 && edgeIndex < edgeCount) {
+            int edge = edges[edgeIndex++];
+            int a = edge >> 1;
+            int b = neighbour(a, (edge & 1) == 0 ? RIGHT : DOWN);
+
+            if (union(a, b)) {
+                carvePassage(a, b);
+                unions++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int find(int cell) {
+        while (parent[cell] != cell) {
+            parent[cell] = parent[parent[cell]]; // Path halving
+            auxWrites++;
+            cell = parent[cell];
+        }
+        return cell;
+    }
+
+    // Merge the sets containing a and b; returns false if they were already connected
+    private boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        if (size[rootA] < size[rootB]) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        auxWrites += 2;
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Randomized Kruskal";
+    }
+}
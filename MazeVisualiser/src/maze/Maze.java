@@ -12,8 +12,9 @@ public class Maze {
     private List<int[]> steps;
     private List<int[]> solutionSteps;
     private boolean solved = false;
-    private Deque<int[]> stack = new ArrayDeque<>();
-    private Set<int[]> visitedCells = new HashSet<>();
+    private boolean[] visitedCells;
+    private DistanceField distanceField;
+    private boolean distanceFieldStale = true;
 
     private int[] startCell;
     private int[] endCell;
@@ -29,6 +30,10 @@ public class Maze {
     private Map<Node, Node> cameFrom;
     private Map<Node, Integer> gScore;
 
+    private MazeGenerator generator;
+    private long generatorSeed;
+    private boolean generatorInitialized = false;
+
     private String algorithmType;
     private long visualTime;
     public int mainMemoryWrites;
@@ -39,6 +44,7 @@ public class Maze {
         this.col = col;
         grid = new int[row][col];
         steps = new ArrayList<>();
+        visitedCells = new boolean[row * col];
 
         // Initialize the grid with walls
         for (int r = 0; r < row; r++) {
@@ -52,9 +58,10 @@ public class Maze {
         grid[startCell[0]][startCell[1]] = PATH;
         grid[endCell[0]][endCell[1]] = PATH;
 
-        stack.push(startCell);
+        generator = new DepthFirstGenerator();
+        generatorSeed = System.nanoTime();
 
-        algorithmType = "Depth-First Search";
+        algorithmType = generator.getName();
         visualTime = 0;
         mainMemoryWrites = 0;
         auxMemoryWrites = 0;
@@ -63,62 +70,76 @@ public class Maze {
         solutionSteps = new ArrayList<>();
     }
 
-    // Randomized depth-first search implementation (also known as the “recursive backtracker” algorithm)
-    public boolean generateMazeDFS() {
-        if (stack.isEmpty()) {
-            endCell = steps.get(steps.size() - 1); 
-            return false; 
-        }
-
-        long startTime = System.currentTimeMillis();
+    // Select the generator used by generateMaze(); a new Maze uses DepthFirstGenerator.
+    // The generator is initialised on the grid the first time it is stepped after a reset.
+    public void setGenerator(MazeGenerator generator, long seed) {
+        this.generator = generator;
+        this.generatorSeed = seed;
+        generatorInitialized = false;
+        algorithmType = generator.getName();
+    }
 
-        int[] cell = stack.peek();
-        int x = cell[0];
-        int y = cell[1];
+    public MazeGenerator getGenerator() {
+        return generator;
+    }
 
-        // Define directions: right, down, left, up
-        int[] dx = {1, 0, -1, 0};
-        int[] dy = {0, 1, 0, -1};
+    // Seed used the next time the generator is initialised. resetMaze() keeps the current seed,
+    // so the same maze is rebuilt unless a new seed is set first.
+    public void setGeneratorSeed(long seed) {
+        this.generatorSeed = seed;
+        generatorInitialized = false;
+    }
 
-        List<Integer> directions = new ArrayList<>();
-        for (int i = 0; i < 4; i++) {
-            directions.add(i);
+    private void ensureGeneratorInitialized() {
+        if (!generatorInitialized) {
+            generator.init(grid, startCell, generatorSeed);
+            generatorInitialized = true;
         }
-        Collections.shuffle(directions);
-
-        for (int i : directions) {
-            int nx = x + dx[i] * 2; 
-            int ny = y + dy[i] * 2;
-
-            if (nx > 0 && ny > 0 && nx < row - 1 && ny < col - 1 && grid[nx][ny] == WALL) {
-                grid[x + dx[i]][y + dy[i]] = PATH; // Remove the wall
-                grid[nx][ny] = PATH; // Mark the chosen cell as a path
-                steps.add(new int[]{nx, ny}); // Add step to the list
-                stack.push(new int[]{nx, ny}); // Push the chosen cell onto the stack
+    }
 
-                // Update metrics
-                mainMemoryWrites += 2; // Two writes to main memory (grid[x + dx[i]][y + dy[i]] and grid[nx][ny])
-                auxMemoryWrites++; // One push operation to auxiliary memory (stack.push)
+    // Perform one step of the selected generator, recording carved cells and metrics
+    public boolean generateMaze() {
+        ensureGeneratorInitialized();
+        long startTime = System.currentTimeMillis();
 
-                currentStep++; // Increment step count
+        if (!generator.step()) {
+            finishGeneration();
+            return false;
+        }
 
-                long endTime = System.currentTimeMillis(); // End time for visual time calculation
-                visualTime = endTime - startTime; // Calculate visual time
+        // Count what the generator actually wrote to the grid and to its own data structures
+        mainMemoryWrites += generator.getMainWrites();
+        auxMemoryWrites += generator.getAuxWrites();
 
-                return true; // A step was generated
-            }
+        if (generator.getMainWrites() > 0) {
+            int carved = generator.getLastCarved();
+            steps.add(new int[]{carved / col, carved % col});
+            distanceFieldStale = true;
         }
 
-        // If no unvisited neighbors, backtrack by popping the current cell
-        stack.pop();
+        currentStep++;
+        visualTime = System.currentTimeMillis() - startTime;
 
-        // Update metrics
-        auxMemoryWrites++; // One pop operation from auxiliary memory (stack.pop)
+        return true;
+    }
 
-        currentStep++; // Increment step count
+    // Bulk mode: generate the whole maze at once without recording individual steps or metrics
+    public void generateMazeBulk() {
+        ensureGeneratorInitialized();
+        generator.generate();
+        finishGeneration();
+        distanceFieldStale = true;
+    }
 
-        return true; // Maze generation is not yet complete
+    // End the maze at the last carved cell so it is always reachable from the start
+    private void finishGeneration() {
+        int carved = generator.getLastCarved();
+        if (carved >= 0) {
+            endCell = new int[]{carved / col, carved % col};
+        }
     }
+
+
     // Generate an open maze with some random obstacles
     public void generateOpenMaze() {
 
@@ -129,6 +150,7 @@ public class Maze {
         }
         grid[startCell[0]][startCell[1]] = PATH;
         grid[endCell[0]][endCell[1]] = PATH;
+        distanceFieldStale = true;
     }
 
     public void resetMaze() {
@@ -148,18 +170,21 @@ public class Maze {
         // Clear all lists and data structures
         steps.clear();
         solutionSteps.clear();
-        stack.clear();
-        stack.push(startCell);
 
-        if (visitedCells != null) visitedCells.clear();
+        Arrays.fill(visitedCells, false);
+        if (distanceField != null) distanceField.clear();
+        distanceFieldStale = true;
         if (openSet != null) openSet.clear();
         if (closedSet != null) closedSet.clear();
         if (cameFrom != null) cameFrom.clear();
         if (gScore != null) gScore.clear();
 
+        // Restart the selected generator on the cleared grid the next time it is stepped
+        generatorInitialized = false;
+
         // Reset flags and metrics
         solved = false;
-        algorithmType = "Depth-First Search";
+        algorithmType = generator.getName();
         visualTime = 0;
         mainMemoryWrites = 0;
         auxMemoryWrites = 0;
@@ -233,7 +258,7 @@ public class Maze {
         }
 
         current = openSet.poll();
-        visitedCells.add(new int[]{current.x, current.y}); // Track visited cells
+        visitedCells[current.x * col + current.y] = true; // Track visited cells
 
         if (current.equals(end)) {
             reconstructPath(current);
@@ -268,7 +293,7 @@ public class Maze {
 
         public void resetDijkstra() {
             initialized = false;
-            if (visitedCells != null) visitedCells.clear();
+            Arrays.fill(visitedCells, false);
             if (openSet != null) openSet.clear();
             if (closedSet != null) closedSet.clear();
             if (cameFrom != null) cameFrom.clear();
@@ -327,8 +352,27 @@ public class Maze {
             }
         }
 
-        public Set<int[]> getVisitedCells() {
-            return visitedCells;
+        public boolean isVisited(int x, int y) {
+            return visitedCells[x * col + y];
+        }
+
+        // Compute BFS distances from the given cells (or the start cell if none are given) to every reachable cell
+        public DistanceField computeDistanceField(int[]... sources) {
+            if (distanceField == null) {
+                distanceField = new DistanceField(grid);
+            }
+            distanceField.compute(sources.length == 0 ? new int[][]{startCell} : sources);
+            distanceFieldStale = false;
+            return distanceField;
+        }
+
+        // True when the grid has been carved or reset since the distance field was last computed
+        public boolean isDistanceFieldStale() {
+            return distanceFieldStale;
+        }
+
+        public DistanceField getDistanceField() {
+            return distanceField;
         }
 
         private boolean isPath(int[] cell) {
@@ -0,0 +1,31 @@
+package maze;
+
+// A perfect-maze generator that carves passages into a grid of walls.
+// Cells sit on odd coordinates and the walls between them on the even ones.
+// Generators can be driven one step at a time for visualisation, or run to completion with generate().
+public interface MazeGenerator {
+
+    // Prepare to carve into the given grid, growing the maze from startCell using a seeded random source
+    void init(int[][] grid, int[] startCell, long seed);
+
+    // Perform one unit of work. Returns false once the maze is complete and there is nothing left to do
+    boolean step();
+
+    // Bulk mode: run the generator until the maze is complete
+    default void generate() {
+        while (step()) {
+            // Keep stepping
+        }
+    }
+
+    // Flat grid index (row * columns + column) of the most recently carved cell, or -1 if nothing has been carved yet
+    int getLastCarved();
+
+    // Number of grid cells written by the last step
+    int getMainWrites();
+
+    // Number of writes to the generator's own arrays (stack, frontier, union-find, ...) made by the last step
+    int getAuxWrites();
+
+    String getName();
+}
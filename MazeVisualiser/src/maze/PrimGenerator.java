@@ -0,0 +1,75 @@
+package maze;
+
+// Randomized Prim's algorithm: grow the maze from the start cell by repeatedly picking a random
+// frontier cell and joining it to a random neighbour that is already part of the maze.
+// The frontier is a primitive int[] with swap-remove, so each step runs in constant time.
+public class PrimGenerator extends AbstractMazeGenerator {
+
+    private static final byte OUTSIDE = 0;
+    private static final byte FRONTIER = 1;
+    private static final byte INSIDE = 2;
+
+    private byte[] state;
+    private int[] frontier;
+    private int frontierSize;
+
+    @Override
+    public void init(int[][] grid, int[] startCell, long seed) {
+        super.init(grid, startCell, seed);
+        state = new byte[cellCount];
+        frontier = new int[cellCount];
+        frontierSize = 0;
+
+        if (cellCount > 0) {
+            state[startIndex] = INSIDE;
+            carveCell(startIndex);
+            addFrontier(startIndex);
+        }
+    }
+
+    @Override
+    public boolean step() {
+        beginStep();
+        if (frontierSize == 0) {
+            return false;
+        }
+
+        // Remove a random frontier cell by swapping the last entry into its slot
+        int i = random.nextInt(frontierSize);
+        int cell = frontier[i];
+        frontier[i] = frontier[--frontierSize];
+        auxWrites++;
+
+        // Reservoir-sample one of its neighbours that is already in the maze
+        int chosen = -1;
+        int seen = 0;
+        for (int direction = 0; direction < 4; direction++) {
+            int next = neighbour(cell, direction);
+            if (next >= 0 && state[next] == INSIDE && random.nextInt(++seen) == 0) {
+                chosen = next;
+            }
+        }
+
+        carvePassage(chosen, cell);
+        state[cell] = INSIDE;
+        auxWrites++;
+        addFrontier(cell);
+        return true;
+    }
+
+    private void addFrontier(int cell) {
+        for (int direction = 0; direction < 4; direction++) {
+            int next = neighbour(cell, direction);
+            if (next >= 0 && state[next] == OUTSIDE) {
+                state[next] = FRONTIER;
+                frontier[frontierSize++] = next;
+                auxWrites += 2;
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Randomized Prim";
+    }
+}
@@ -0,0 +1,83 @@
+package maze;
+
+// Wilson's algorithm: produces a uniform spanning tree by running loop-erased random walks.
+// From each cell not yet in the maze, walk randomly until the maze is hit, remembering only the
+// last direction taken out of every cell (which erases loops), then carve the remembered path.
+// A whole walk runs inside a single step and each step carves one cell of the path, so the
+// maze visibly grows on every step.
+public class WilsonGenerator extends AbstractMazeGenerator {
+
+    private boolean[] inMaze;
+    private int[] next;
+    private int remaining;
+    private int cursor;
+    private boolean carving;
+    private int pathCell;
+
+    @Override
+    public void init(int[][] grid, int[] startCell, long seed) {
+        super.init(grid, startCell, seed);
+        inMaze = new boolean[cellCount];
+        next = new int[cellCount];
+        remaining = Math.max(cellCount - 1, 0);
+        cursor = 0;
+        carving = false;
+
+        if (cellCount > 0) {
+            inMaze[startIndex] = true;
+            carveCell(startIndex);
+        }
+    }
+
+    @Override
+    public boolean step() {
+        beginStep();
+        if (remaining == 0) {
+            return false;
+        }
+
+        if (!carving) {
+            // Walk from the next cell that is not yet part of the maze until the walk reaches the maze
+            while (inMaze[cursor]) {
+                cursor++;
+            }
+            int walkCurrent = cursor;
+            while (!inMaze[walkCurrent]) {
+                int nextCell = randomNeighbour(walkCurrent);
+                next[walkCurrent] = nextCell; // Overwriting the exit direction erases any loop
+                auxWrites++;
+                walkCurrent = nextCell;
+            }
+            pathCell = cursor;
+            carving = true;
+        }
+
+        // Carve one cell of the loop-erased path and move along it
+        inMaze[pathCell] = true;
+        auxWrites++;
+        remaining--;
+        carvePassage(next[pathCell], pathCell);
+        pathCell = next[pathCell];
+        if (inMaze[pathCell]) {
+            carving = false;
+        }
+        return true;
+    }
+
+    private int randomNeighbour(int cell) {
+        int chosen = -1;
+        int seen = 0;
+        for (int direction = 0; direction < 4; direction++) {
+            int candidate = neighbour(cell, direction);
+            if (candidate >= 0 && random.nextInt(++seen) == 0) {
+                chosen = candidate;
+            }
+        }
+        return chosen;
+    }
+
+    @Override
+    public String getName() {
+        return "Wilson's Algorithm";
+    }
+}